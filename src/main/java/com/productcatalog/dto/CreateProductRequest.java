@@ -14,6 +14,10 @@ import java.math.BigDecimal;
 @Builder
 public class CreateProductRequest {
 
+    public static final String SKU_REGEX = "^[A-Z0-9\\-]+$";
+    public static final int SKU_MIN_LENGTH = 3;
+    public static final int SKU_MAX_LENGTH = 50;
+
     @NotBlank(message = "Product name is required")
     @Size(min = 3, max = 255, message = "Name must be between 3 and 255 characters")
     private String name;
@@ -31,7 +35,7 @@ public class CreateProductRequest {
     private String category;
 
     @NotBlank(message = "SKU is required")
-    @Pattern(regexp = "^[A-Z0-9\\-]+$", message = "SKU must contain only uppercase letters, numbers, and hyphens")
-    @Size(min = 3, max = 50, message = "SKU must be between 3 and 50 characters")
+    @Pattern(regexp = SKU_REGEX, message = "SKU must contain only uppercase letters, numbers, and hyphens")
+    @Size(min = SKU_MIN_LENGTH, max = SKU_MAX_LENGTH, message = "SKU must be between {min} and {max} characters")
     private String sku;
 }
\ No newline at end of file
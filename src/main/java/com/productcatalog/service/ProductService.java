@@ -1,6 +1,7 @@
 package com.productcatalog.service;
 
 import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
 import com.productcatalog.dto.CreateProductRequest;
 import com.productcatalog.dto.ProductResponse;
 import com.productcatalog.dto.SearchResponse;
@@ -11,8 +12,11 @@ import com.productcatalog.model.Product;
 import com.productcatalog.repository.ProductRepository;
 import com.productcatalog.repository.ProductSearchRepository;
 import com.productcatalog.util.SearchResponseUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
@@ -26,11 +30,16 @@ import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 public class ProductService {
 
+    private static final Pattern SKU_PATTERN = Pattern.compile(CreateProductRequest.SKU_REGEX);
+    private static final List<String> SEARCH_FIELDS = List.of("name^2", "description", "category");
+
     @Autowired
     private ProductRepository productRepository;
 
@@ -43,6 +52,12 @@ public class ProductService {
     @Autowired
     private SearchResponseUtil searchResponseUtil;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${search.planner.min-exact-hits:20}")
+    private int minExactHits;
+
     @Transactional
     public ProductResponse createProduct(CreateProductRequest request) {
         log.info("Creating product with SKU: {}", request.getSku());
@@ -81,23 +96,33 @@ public class ProductService {
 
         int pageNumber = offset / limit;
 
-        try {
-            Query multiMatchQuery = QueryBuilders.multiMatch(m -> m
-                    .fields("name^2", "description", "category")
-                    .query(query)
-                    .fuzziness("AUTO")
-                    .operator(Operator.Or)
-            );
+        SearchTier tier = null;
+        String outcome = "error";
 
+        try {
             Pageable pageable = PageRequest.of(pageNumber, limit);
+            String trimmedQuery = query.trim();
 
-            NativeQuery nativeQuery = NativeQuery.builder()
-                    .withQuery(multiMatchQuery)
-                    .withPageable(pageable)
-                    .build();
+            // Tier 1: SKU-shaped queries go straight to an exact keyword lookup
+            SearchHits<Product> searchHits = null;
+            if (isSkuShaped(trimmedQuery)) {
+                tier = SearchTier.SKU;
+                searchHits = runTier(tier, skuQuery(trimmedQuery), pageable, 1);
+            }
 
-            SearchHits<Product> searchHits =
-                    elasticsearchOperations.search(nativeQuery, Product.class);
+            // Tier 2: cheap exact/phrase-prefix match, no fuzzy expansion
+            if (searchHits == null || searchHits.getTotalHits() == 0) {
+                // The exact pass is enough only when it can fill the requested page
+                int exactThreshold = Math.min(limit, minExactHits);
+                tier = SearchTier.EXACT;
+                searchHits = runTier(tier, exactQuery(trimmedQuery), pageable, exactThreshold);
+
+                // Tier 3: fuzzy OR query, only when the exact pass is too thin
+                if (searchHits.getTotalHits() < exactThreshold) {
+                    tier = SearchTier.FUZZY;
+                    searchHits = runTier(tier, fuzzyQuery(trimmedQuery), pageable, 1);
+                }
+            }
 
             long totalHits = searchHits.getTotalHits();
             List<ProductResponse> data = searchHits.getSearchHits()
@@ -106,9 +131,11 @@ public class ProductService {
                     .toList();
 
             if (data.isEmpty()) {
+                outcome = "empty";
                 return searchResponseUtil.emptyResponse("No products found", pageNumber, limit);
             }
 
+            outcome = "hit";
             long execTime = System.currentTimeMillis() - start;
 
             return searchResponseUtil.successResponse(data, totalHits, pageNumber, limit, execTime);
@@ -116,9 +143,71 @@ public class ProductService {
         } catch (Exception e) {
             log.error("Search failed for query '{}'", query, e);
             return searchResponseUtil.emptyResponse("Search failed: " + e.getMessage(), 0, limit);
+        } finally {
+            recordSearch(tier, outcome, System.currentTimeMillis() - start);
         }
     }
 
+    private void recordSearch(SearchTier tier, String outcome, long execTime) {
+        String tierTag = tier == null ? "none" : tier.tag();
+        meterRegistry.timer("product.search", "tier", tierTag, "outcome", outcome)
+                .record(execTime, TimeUnit.MILLISECONDS);
+        log.debug("Search answered by {} tier ({}) in {} ms", tierTag, outcome, execTime);
+    }
+
+    private SearchHits<Product> runTier(SearchTier tier, Query query, Pageable pageable, int minHits) {
+        NativeQuery nativeQuery = NativeQuery.builder()
+                .withQuery(query)
+                .withPageable(pageable)
+                .build();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        SearchHits<Product> searchHits = elasticsearchOperations.search(nativeQuery, Product.class);
+        boolean hit = searchHits.getTotalHits() >= minHits;
+        sample.stop(meterRegistry.timer("product.search.tier",
+                "tier", tier.tag(), "outcome", hit ? "hit" : "miss"));
+
+        log.trace("Search tier {} returned {} hits", tier.tag(), searchHits.getTotalHits());
+        return searchHits;
+    }
+
+    private Query skuQuery(String sku) {
+        return QueryBuilders.term(t -> t
+                .field("sku.keyword")
+                .value(sku)
+        );
+    }
+
+    private Query exactQuery(String query) {
+        return QueryBuilders.bool(b -> b
+                .should(s -> s.multiMatch(m -> m
+                        .fields(SEARCH_FIELDS)
+                        .query(query)
+                        .operator(Operator.And)))
+                .should(s -> s.multiMatch(m -> m
+                        .fields(SEARCH_FIELDS)
+                        .query(query)
+                        .type(TextQueryType.PhrasePrefix)))
+                .minimumShouldMatch("1")
+        );
+    }
+
+    // phrase_prefix stays as a should clause: fuzziness does not complete partial
+    // words ("lap" -> "laptop"), so without it the fallback could lose prefix matches
+    private Query fuzzyQuery(String query) {
+        return QueryBuilders.bool(b -> b
+                .should(s -> s.multiMatch(m -> m
+                        .fields(SEARCH_FIELDS)
+                        .query(query)
+                        .fuzziness("AUTO")
+                        .operator(Operator.Or)))
+                .should(s -> s.multiMatch(m -> m
+                        .fields(SEARCH_FIELDS)
+                        .query(query)
+                        .type(TextQueryType.PhrasePrefix)))
+                .minimumShouldMatch("1")
+        );
+    }
 
     @Transactional
     public void softDeleteProduct(Long id) {
@@ -161,6 +250,12 @@ public class ProductService {
                 .build();
     }
 
+    private boolean isSkuShaped(String query) {
+        return query.length() >= CreateProductRequest.SKU_MIN_LENGTH
+                && query.length() <= CreateProductRequest.SKU_MAX_LENGTH
+                && SKU_PATTERN.matcher(query).matches();
+    }
+
     private boolean isEmpty(String query) {
         return query == null || query.trim().isEmpty();
     }
@@ -180,5 +275,12 @@ public class ProductService {
         }
         return offset;
     }
-}
 
+    private enum SearchTier {
+        SKU, EXACT, FUZZY;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+}
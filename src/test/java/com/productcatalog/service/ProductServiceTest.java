@@ -0,0 +1,254 @@
+package com.productcatalog.service;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.MultiMatchQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TermQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import com.productcatalog.dto.SearchResponse;
+import com.productcatalog.model.Product;
+import com.productcatalog.util.SearchResponseUtil;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductServiceTest {
+
+    private static final List<String> SEARCH_FIELDS = List.of("name^2", "description", "category");
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @InjectMocks
+    private ProductService productService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(productService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(productService, "searchResponseUtil", new SearchResponseUtil());
+        ReflectionTestUtils.setField(productService, "minExactHits", 20);
+    }
+
+    @Test
+    void skuHitSkipsOtherTiers() {
+        SearchHits<Product> result = hits(1);
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(Product.class)))
+                .thenReturn(result);
+
+        SearchResponse response = productService.searchProducts("  APP-MBA-M2 ", 20, 0);
+
+        assertThat(response.getData()).hasSize(1);
+        List<NativeQuery> queries = capturedQueries(1);
+        assertSkuQuery(queries.get(0), "APP-MBA-M2");
+        assertThat(tierTimer("sku", "hit").count()).isEqualTo(1);
+        assertThat(searchTimer("sku", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    void skuWithoutHyphenUsesSkuTier() {
+        SearchHits<Product> result = hits(1);
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(Product.class)))
+                .thenReturn(result);
+
+        productService.searchProducts("SNY1000", 20, 0);
+
+        assertSkuQuery(capturedQueries(1).get(0), "SNY1000");
+    }
+
+    @Test
+    void skuMissFallsThroughToExactTier() {
+        SearchHits<Product> first = hits(0);
+        SearchHits<Product> second = hits(20);
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(Product.class)))
+                .thenReturn(first, second);
+
+        SearchResponse response = productService.searchProducts("LOG-MX-3S", 20, 0);
+
+        assertThat(response.getData()).hasSize(20);
+        List<NativeQuery> queries = capturedQueries(2);
+        assertSkuQuery(queries.get(0), "LOG-MX-3S");
+        assertExactQuery(queries.get(1), "LOG-MX-3S");
+        assertThat(tierTimer("sku", "miss").count()).isEqualTo(1);
+        assertThat(tierTimer("exact", "hit").count()).isEqualTo(1);
+        assertThat(searchTimer("exact", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    void nonSkuQuerySkipsSkuTier() {
+        SearchHits<Product> result = hits(20);
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(Product.class)))
+                .thenReturn(result);
+
+        productService.searchProducts("Wireless headphones", 20, 0);
+
+        assertExactQuery(capturedQueries(1).get(0), "Wireless headphones");
+        assertThat(meterRegistry.find("product.search.tier").tag("tier", "sku").timer()).isNull();
+    }
+
+    @Test
+    void exactTierFillingThePageSkipsFuzzyTier() {
+        SearchHits<Product> result = hits(5);
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(Product.class)))
+                .thenReturn(result);
+
+        productService.searchProducts("laptop", 5, 0);
+
+        capturedQueries(1);
+        assertThat(tierTimer("exact", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.find("product.search.tier").tag("tier", "fuzzy").timer()).isNull();
+    }
+
+    @Test
+    void fuzzyTierRunsWhenExactTierCannotFillThePage() {
+        SearchHits<Product> first = hits(1);
+        SearchHits<Product> second = hits(2);
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(Product.class)))
+                .thenReturn(first, second);
+
+        SearchResponse response = productService.searchProducts("wireless mouse", 20, 0);
+
+        assertThat(response.getData()).hasSize(2);
+        assertThat(response.getPaginationInfo().getTotalElements()).isEqualTo(2);
+        List<NativeQuery> queries = capturedQueries(2);
+        assertExactQuery(queries.get(0), "wireless mouse");
+        assertFuzzyQuery(queries.get(1), "wireless mouse");
+        assertThat(tierTimer("exact", "miss").count()).isEqualTo(1);
+        assertThat(tierTimer("fuzzy", "hit").count()).isEqualTo(1);
+        assertThat(searchTimer("fuzzy", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyResultIsRecordedAsEmptyOutcome() {
+        SearchHits<Product> result = hits(0);
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(Product.class)))
+                .thenReturn(result);
+
+        SearchResponse response = productService.searchProducts("nonexistent gadget", 20, 0);
+
+        assertThat(response.getData()).isEmpty();
+        capturedQueries(2);
+        assertThat(tierTimer("fuzzy", "miss").count()).isEqualTo(1);
+        assertThat(searchTimer("fuzzy", "empty").count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedSearchIsRecordedAsErrorOutcome() {
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(Product.class)))
+                .thenThrow(new IllegalStateException("cluster unavailable"));
+
+        SearchResponse response = productService.searchProducts("laptop", 20, 0);
+
+        assertThat(response.getMessage()).startsWith("Search failed");
+        assertThat(searchTimer("exact", "error").count()).isEqualTo(1);
+    }
+
+    private void assertSkuQuery(NativeQuery nativeQuery, String sku) {
+        Query query = nativeQuery.getQuery();
+        assertThat(query.isTerm()).isTrue();
+
+        TermQuery term = query.term();
+        assertThat(term.field()).isEqualTo("sku.keyword");
+        assertThat(term.value().stringValue()).isEqualTo(sku);
+    }
+
+    private void assertExactQuery(NativeQuery nativeQuery, String text) {
+        List<MultiMatchQuery> clauses = shouldClauses(nativeQuery);
+        assertThat(clauses).hasSize(2);
+
+        MultiMatchQuery and = clauses.get(0);
+        assertThat(and.fields()).isEqualTo(SEARCH_FIELDS);
+        assertThat(and.query()).isEqualTo(text);
+        assertThat(and.operator()).isEqualTo(Operator.And);
+        assertThat(and.fuzziness()).isNull();
+
+        assertPhrasePrefix(clauses.get(1), text);
+    }
+
+    private void assertFuzzyQuery(NativeQuery nativeQuery, String text) {
+        List<MultiMatchQuery> clauses = shouldClauses(nativeQuery);
+        assertThat(clauses).hasSize(2);
+
+        MultiMatchQuery fuzzy = clauses.get(0);
+        assertThat(fuzzy.fields()).isEqualTo(SEARCH_FIELDS);
+        assertThat(fuzzy.query()).isEqualTo(text);
+        assertThat(fuzzy.operator()).isEqualTo(Operator.Or);
+        assertThat(fuzzy.fuzziness()).isEqualTo("AUTO");
+
+        assertPhrasePrefix(clauses.get(1), text);
+    }
+
+    private void assertPhrasePrefix(MultiMatchQuery clause, String text) {
+        assertThat(clause.fields()).isEqualTo(SEARCH_FIELDS);
+        assertThat(clause.query()).isEqualTo(text);
+        assertThat(clause.type()).isEqualTo(TextQueryType.PhrasePrefix);
+        assertThat(clause.fuzziness()).isNull();
+    }
+
+    private List<MultiMatchQuery> shouldClauses(NativeQuery nativeQuery) {
+        Query query = nativeQuery.getQuery();
+        assertThat(query.isBool()).isTrue();
+        assertThat(query.bool().minimumShouldMatch()).isEqualTo("1");
+        assertThat(query.bool().should()).allMatch(Query::isMultiMatch);
+        return query.bool().should().stream().map(Query::multiMatch).toList();
+    }
+
+    private List<NativeQuery> capturedQueries(int expectedCalls) {
+        ArgumentCaptor<NativeQuery> captor = ArgumentCaptor.forClass(NativeQuery.class);
+        verify(elasticsearchOperations, times(expectedCalls)).search(captor.capture(), eq(Product.class));
+        return captor.getAllValues();
+    }
+
+    private Timer tierTimer(String tier, String outcome) {
+        return meterRegistry.get("product.search.tier").tags("tier", tier, "outcome", outcome).timer();
+    }
+
+    private Timer searchTimer(String tier, String outcome) {
+        return meterRegistry.get("product.search").tags("tier", tier, "outcome", outcome).timer();
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHits<Product> hits(int count) {
+        List<SearchHit<Product>> searchHits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SearchHit<Product> searchHit = mock(SearchHit.class);
+            lenient().when(searchHit.getContent()).thenReturn(Product.builder()
+                    .id((long) i + 1)
+                    .name("Product " + i)
+                    .sku("SKU-" + i)
+                    .build());
+            searchHits.add(searchHit);
+        }
+
+        SearchHits<Product> hits = mock(SearchHits.class);
+        lenient().when(hits.getTotalHits()).thenReturn((long) count);
+        lenient().when(hits.getSearchHits()).thenReturn(searchHits);
+        return hits;
+    }
+}